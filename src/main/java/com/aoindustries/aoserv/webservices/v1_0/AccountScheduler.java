@@ -0,0 +1,390 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules calls fairly between accounts, so a single account cannot starve the others.
+ * <ul>
+ * <li>Each account may have no more than the limit of its {@link AccountClass} calls active or waiting.
+ *     Further calls are rejected immediately, without taking capacity from other accounts.</li>
+ * <li>When the service is at capacity, waiting calls are granted in weighted fair order, using start-time
+ *     fair queuing: each call advances its account's virtual time inversely to the weight of its class.</li>
+ * </ul>
+ *
+ * <p>Calls are scheduled by the authenticated username, since the calls of all switchUsers are under the
+ * control of the same account.  A call is only charged to an account once its password is verified, so a caller
+ * that only knows the username cannot use the account's slots.  Calls that must authenticate with the master
+ * server, on a connector cache miss, do so beforehand under a separate limit shared by all accounts.</p>
+ *
+ * <p>Configured by service parameters:</p>
+ * <ul>
+ * <li>{@code maxConcurrentCalls}: The maximum number of calls processed concurrently</li>
+ * <li>{@code maxQueueWait}: The maximum time, in milliseconds, a call will wait to be processed</li>
+ * <li>{@code maxAuthenticatingCalls}: The maximum number of calls authenticating with the master server
+ *     concurrently, shared by all accounts</li>
+ * <li>{@code accountClassLimits}: The maximum number of calls active or waiting per account, by class,
+ *     such as {@code "default=8, reseller=16"}</li>
+ * <li>{@code accountClassWeights}: The scheduling weight of each account, by class,
+ *     such as {@code "default=1, reseller=2"}</li>
+ * <li>{@code accountClasses}: The class of each account, by username, such as {@code "someuser=reseller"}.
+ *     Accounts not listed are in the {@code "default"} class.</li>
+ * </ul>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  AccountSchedulerMXBean
+ */
+final class AccountScheduler {
+
+  /** Make no instances. */
+  private AccountScheduler() {
+    throw new AssertionError();
+  }
+
+  private static final Logger logger = Logger.getLogger(AccountScheduler.class.getName());
+
+  static final String DEFAULT_ACCOUNT_CLASS = "default";
+
+  static final int DEFAULT_ACCOUNT_LIMIT = 8;
+
+  static final int DEFAULT_ACCOUNT_WEIGHT = 1;
+
+  static final long DEFAULT_MAX_QUEUE_WAIT = 1000;
+
+  static final int DEFAULT_MAX_AUTHENTICATING_CALLS = 8;
+
+  private static final String ACCOUNT_OVERLOADED = "Too many concurrent calls for account, please retry";
+
+  private static final String OVERLOADED = "Service is overloaded, please retry";
+
+  private static final String AUTHENTICATION_OVERLOADED = "Too many concurrent authentications, please retry";
+
+  /**
+   * The virtual time consumed by one call of weight one.
+   */
+  private static final long VIRTUAL_TIME_SCALE = 1000000;
+
+  /**
+   * The concurrency limit and scheduling weight shared by a class of accounts.
+   */
+  static final class AccountClass {
+
+    private final int limit;
+    private final int weight;
+
+    AccountClass(int limit, int weight) {
+      if (limit < 1) {
+        throw new IllegalArgumentException("limit < 1: " + limit);
+      }
+      if (weight < 1) {
+        throw new IllegalArgumentException("weight < 1: " + weight);
+      }
+      this.limit = limit;
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * The scheduling state and metrics of a single account.
+   * All fields are guarded by {@link #lock}.
+   */
+  static final class Account {
+
+    private final String name;
+    private final AccountClass accountClass;
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private int active;
+    private long lastFinish;
+    private long nextStart;
+    private long admitted;
+    private long rejected;
+    private long timedOut;
+
+    private Account(String name, AccountClass accountClass) {
+      this.name = name;
+      this.accountClass = accountClass;
+    }
+  }
+
+  private static final class Waiter {
+    private boolean granted;
+  }
+
+  private static class Lock {
+    // Empty lock class to help heap profile
+  }
+
+  private static final Lock lock = new Lock();
+
+  private static int available = AdmissionController.DEFAULT_MAX_CONCURRENT_CALLS;
+
+  private static long maxQueueWait = DEFAULT_MAX_QUEUE_WAIT;
+
+  private static volatile int maxAuthenticatingCalls = DEFAULT_MAX_AUTHENTICATING_CALLS;
+
+  private static volatile Semaphore authenticatingPermits = new Semaphore(DEFAULT_MAX_AUTHENTICATING_CALLS);
+
+  private static long rejectedAuthentications;
+
+  private static AccountClass defaultAccountClass = new AccountClass(DEFAULT_ACCOUNT_LIMIT, DEFAULT_ACCOUNT_WEIGHT);
+
+  private static Map<String, AccountClass> accountClasses = Collections.emptyMap();
+
+  private static final Map<String, Account> accounts = new HashMap<>();
+
+  /**
+   * The accounts with waiting calls, ordered by the virtual start time of their next call.
+   */
+  private static final PriorityQueue<Account> ready = new PriorityQueue<>(Comparator.comparingLong(account -> account.nextStart));
+
+  private static long virtualClock;
+
+  /**
+   * Configures the scheduler.  Must be called before the service accepts calls.
+   *
+   * @param  maxConcurrentCalls      The maximum number of calls processed concurrently
+   * @param  maxQueueWait            The maximum time, in milliseconds, a call will wait to be processed
+   * @param  maxAuthenticatingCalls  The maximum number of calls authenticating with the master server concurrently,
+   *                                 at least one
+   * @param  defaultAccountClass     The class of accounts not found in {@code accountClasses}
+   * @param  accountClasses          The class of each account, by username
+   */
+  static void configure(
+      int maxConcurrentCalls,
+      long maxQueueWait,
+      int maxAuthenticatingCalls,
+      AccountClass defaultAccountClass,
+      Map<String, AccountClass> accountClasses
+  ) {
+    synchronized (lock) {
+      AccountScheduler.available = maxConcurrentCalls;
+      AccountScheduler.maxQueueWait = maxQueueWait;
+      AccountScheduler.maxAuthenticatingCalls = maxAuthenticatingCalls;
+      AccountScheduler.authenticatingPermits = new Semaphore(maxAuthenticatingCalls);
+      rejectedAuthentications = 0;
+      AccountScheduler.defaultAccountClass = defaultAccountClass;
+      AccountScheduler.accountClasses = new HashMap<>(accountClasses);
+      accounts.clear();
+      ready.clear();
+      virtualClock = 0;
+    }
+  }
+
+  private static Account newAccount(String username) {
+    return new Account(username, accountClasses.getOrDefault(username, defaultAccountClass));
+  }
+
+  /**
+   * Acquires a permit to authenticate the current call with the master server, waiting a bounded time when
+   * too many calls are already authenticating.  The call is not yet charged to any account.
+   *
+   * @return  The permits to release once authenticated
+   *
+   * @throws  ServiceUnavailableException  when the call waits too long
+   */
+  static Semaphore acquireAuthentication(RequestContext context) throws ServiceUnavailableException {
+    Semaphore permits = authenticatingPermits;
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(
+          Math.min(TimeUnit.MILLISECONDS.toNanos(maxQueueWait), context.getRemaining()),
+          TimeUnit.NANOSECONDS
+      );
+    } catch (InterruptedException e) {
+      // Restore the interrupted status
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      synchronized (lock) {
+        rejectedAuthentications++;
+      }
+      throw new ServiceUnavailableException(AUTHENTICATION_OVERLOADED);
+    }
+    return permits;
+  }
+
+  /**
+   * Acquires a slot for the current call, waiting in fair order when the service is at capacity.
+   * The slot is released by {@link AdmissionController#release()}.
+   *
+   * @param  username  The username exactly as sent by the client, once authenticated
+   *
+   * @throws  ServiceUnavailableException  when the account is over its limit or the call waits too long
+   */
+  static void acquire(RequestContext context, String username) throws ServiceUnavailableException {
+    synchronized (lock) {
+      Account account = accounts.computeIfAbsent(username, AccountScheduler::newAccount);
+      if (account.active + account.waiters.size() >= account.accountClass.limit) {
+        account.rejected++;
+        if (logger.isLoggable(Level.FINE)) {
+          logger.fine("Account over limit: " + account.name);
+        }
+        throw new ServiceUnavailableException(ACCOUNT_OVERLOADED);
+      }
+      if (available > 0) {
+        // Not at capacity: no accounts are waiting
+        assert ready.isEmpty();
+        available--;
+        account.active++;
+        account.lastFinish = Math.max(virtualClock, account.lastFinish) + VIRTUAL_TIME_SCALE / account.accountClass.weight;
+      } else {
+        Waiter waiter = new Waiter();
+        account.waiters.add(waiter);
+        if (account.waiters.size() == 1) {
+          account.nextStart = Math.max(virtualClock, account.lastFinish);
+          ready.add(account);
+        }
+        long deadline = System.nanoTime() + Math.min(TimeUnit.MILLISECONDS.toNanos(maxQueueWait), context.getRemaining());
+        try {
+          while (!waiter.granted) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+              break;
+            }
+            TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+          }
+        } catch (InterruptedException e) {
+          // Restore the interrupted status
+          Thread.currentThread().interrupt();
+        }
+        if (!waiter.granted) {
+          account.waiters.remove(waiter);
+          if (account.waiters.isEmpty()) {
+            ready.remove(account);
+          }
+          account.timedOut++;
+          if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Account waited too long: " + account.name);
+          }
+          throw new ServiceUnavailableException(OVERLOADED);
+        }
+      }
+      account.admitted++;
+      context.setAccount(account);
+    }
+  }
+
+  /**
+   * Releases a slot previously acquired, granting it to the next waiting call in fair order.
+   */
+  static void release(Account account) {
+    synchronized (lock) {
+      if (account.active <= 0) {
+        throw new IllegalStateException("active <= 0: " + account.active);
+      }
+      account.active--;
+      available++;
+      boolean granted = false;
+      while (available > 0 && !ready.isEmpty()) {
+        Account next = ready.poll();
+        next.waiters.remove().granted = true;
+        available--;
+        next.active++;
+        virtualClock = next.nextStart;
+        next.lastFinish = next.nextStart + VIRTUAL_TIME_SCALE / next.accountClass.weight;
+        if (!next.waiters.isEmpty()) {
+          next.nextStart = next.lastFinish;
+          ready.add(next);
+        }
+        granted = true;
+      }
+      if (granted) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  private static <N extends Number> Map<String, N> getMetric(Function<Account, N> metric) {
+    synchronized (lock) {
+      Map<String, N> map = new TreeMap<>();
+      for (Account account : accounts.values()) {
+        map.put(account.name, metric.apply(account));
+      }
+      return map;
+    }
+  }
+
+  /**
+   * Exposes the metrics of the scheduler through JMX.
+   */
+  static final AccountSchedulerMXBean mxBean = new AccountSchedulerMXBean() {
+    @Override
+    public int getAvailableCalls() {
+      synchronized (lock) {
+        return available;
+      }
+    }
+
+    @Override
+    public int getAuthenticatingCalls() {
+      return maxAuthenticatingCalls - authenticatingPermits.availablePermits();
+    }
+
+    @Override
+    public long getRejectedAuthentications() {
+      synchronized (lock) {
+        return rejectedAuthentications;
+      }
+    }
+
+    @Override
+    public Map<String, Integer> getActiveCalls() {
+      return getMetric(account -> account.active);
+    }
+
+    @Override
+    public Map<String, Integer> getWaitingCalls() {
+      return getMetric(account -> account.waiters.size());
+    }
+
+    @Override
+    public Map<String, Long> getAdmittedCalls() {
+      return getMetric(account -> account.admitted);
+    }
+
+    @Override
+    public Map<String, Long> getRejectedCalls() {
+      return getMetric(account -> account.rejected);
+    }
+
+    @Override
+    public Map<String, Long> getTimedOutCalls() {
+      return getMetric(account -> account.timedOut);
+    }
+  };
+}
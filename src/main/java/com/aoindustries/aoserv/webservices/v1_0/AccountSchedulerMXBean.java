@@ -0,0 +1,75 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.util.Map;
+
+/**
+ * JMX metrics of the {@link AccountScheduler}, by account username.
+ * Used to find which accounts are causing overloads.
+ *
+ * @author  AO Industries, Inc.
+ */
+public interface AccountSchedulerMXBean {
+
+  /**
+   * Gets the number of calls that may be started without waiting.
+   */
+  int getAvailableCalls();
+
+  /**
+   * Gets the number of calls currently authenticating with the master server, not yet charged to any account.
+   */
+  int getAuthenticatingCalls();
+
+  /**
+   * Gets the total number of calls rejected after waiting too long to authenticate.
+   */
+  long getRejectedAuthentications();
+
+  /**
+   * Gets the number of calls currently being processed.
+   */
+  Map<String, Integer> getActiveCalls();
+
+  /**
+   * Gets the number of calls currently waiting to be processed.
+   */
+  Map<String, Integer> getWaitingCalls();
+
+  /**
+   * Gets the total number of calls processed.
+   */
+  Map<String, Long> getAdmittedCalls();
+
+  /**
+   * Gets the total number of calls rejected for the account being over its limit.
+   */
+  Map<String, Long> getRejectedCalls();
+
+  /**
+   * Gets the total number of calls rejected after waiting too long to be processed.
+   */
+  Map<String, Long> getTimedOutCalls();
+}
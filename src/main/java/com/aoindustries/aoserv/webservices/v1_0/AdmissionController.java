@@ -0,0 +1,152 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.description.AxisOperation;
+
+/**
+ * Limits the number of calls within the service, rejecting new calls quickly with a
+ * {@link ServiceUnavailableException} once too many calls are being processed or waiting.
+ * This keeps latency bounded when the master server slows down, instead of piling-up calls until
+ * the container runs out of threads.  The waiting itself is done in the {@link AccountScheduler}
+ * once the account of the call is known.
+ *
+ * <p>Configured by service parameters:</p>
+ * <ul>
+ * <li>{@code maxConcurrentCalls}: The maximum number of calls processed concurrently</li>
+ * <li>{@code maxQueuedCalls}: The maximum number of calls waiting to be processed</li>
+ * <li>{@code callTimeout}: The time budget, in milliseconds, of each call, or {@code 0} for no deadline.
+ *     May also be set per operation.</li>
+ * </ul>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class AdmissionController {
+
+  /** Make no instances. */
+  private AdmissionController() {
+    throw new AssertionError();
+  }
+
+  static final int DEFAULT_MAX_CONCURRENT_CALLS = 64;
+
+  static final int DEFAULT_MAX_QUEUED_CALLS = 64;
+
+  static final long DEFAULT_CALL_TIMEOUT = 60L * 1000;
+
+  private static final String OVERLOADED = "Service is overloaded, please retry";
+
+  private static volatile Semaphore permits = new Semaphore(DEFAULT_MAX_CONCURRENT_CALLS + DEFAULT_MAX_QUEUED_CALLS);
+
+  private static volatile long callTimeout = DEFAULT_CALL_TIMEOUT;
+
+  /**
+   * The time budget of each operation, resolved from the operation then service parameters.
+   */
+  private static final ConcurrentMap<AxisOperation, Long> operationTimeouts = new ConcurrentHashMap<>();
+
+  /**
+   * Configures the limits.  Must be called before the service accepts calls.
+   */
+  static void configure(int maxConcurrentCalls, int maxQueuedCalls, long callTimeout) {
+    AdmissionController.permits = new Semaphore(maxConcurrentCalls + maxQueuedCalls);
+    AdmissionController.callTimeout = callTimeout;
+    operationTimeouts.clear();
+  }
+
+  private static long getCallTimeout(AxisOperation operation) {
+    if (operation == null) {
+      return callTimeout;
+    }
+    return operationTimeouts.computeIfAbsent(
+        operation,
+        op -> AoservServiceLifeCycle.getLongParameter(op, "callTimeout", callTimeout)
+    );
+  }
+
+  /**
+   * Admits a call, without waiting.
+   * Every successful admit must be followed by a call to {@link #release()}.
+   *
+   * @throws  AxisFault  wrapping a {@link ServiceUnavailableException}, with its fault code, when the call is rejected
+   */
+  static void admit(MessageContext inMessage) throws AxisFault {
+    if (!InFlight.enter()) {
+      throw Faults.makeFault(inMessage, new ServiceUnavailableException(InFlight.SHUTTING_DOWN));
+    }
+    boolean admitted = false;
+    try {
+      Semaphore callPermits = permits;
+      if (!callPermits.tryAcquire()) {
+        throw Faults.makeFault(inMessage, new ServiceUnavailableException(OVERLOADED));
+      }
+      try {
+        RequestContext context = RequestContext.begin(getCallTimeout(inMessage.getAxisOperation()));
+        context.setPermits(callPermits);
+        admitted = true;
+      } finally {
+        if (!admitted) {
+          callPermits.release();
+        }
+      }
+    } finally {
+      if (!admitted) {
+        InFlight.exit();
+      }
+    }
+  }
+
+  /**
+   * Releases a call previously admitted by {@link #admit(org.apache.axis2.context.MessageContext)},
+   * including any slot acquired from the {@link AccountScheduler} and memory reserved from the
+   * {@link ResponseBudget}.
+   */
+  static void release() {
+    RequestContext context = RequestContext.get();
+    Semaphore callPermits = context.getPermits();
+    AccountScheduler.Account account = context.getAccount();
+    long reservedBytes = context.getReservedBytes();
+    context.end();
+    try {
+      ResponseBudget.release(reservedBytes);
+      if (account != null) {
+        AccountScheduler.release(account);
+      }
+    } finally {
+      try {
+        if (callPermits != null) {
+          callPermits.release();
+        }
+      } finally {
+        InFlight.exit();
+      }
+    }
+  }
+}
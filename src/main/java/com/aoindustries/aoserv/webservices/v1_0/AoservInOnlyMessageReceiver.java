@@ -0,0 +1,50 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.rpc.receivers.RPCInOnlyMessageReceiver;
+
+/**
+ * Applies admission control and the fault codes of {@link Faults} around the standard {@link RPCInOnlyMessageReceiver}.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  AdmissionController
+ */
+public class AoservInOnlyMessageReceiver extends RPCInOnlyMessageReceiver {
+
+  @Override
+  public void invokeBusinessLogic(MessageContext inMessage) throws AxisFault {
+    AdmissionController.admit(inMessage);
+    try {
+      super.invokeBusinessLogic(inMessage);
+    } catch (AxisFault fault) {
+      throw Faults.toAxisFault(inMessage, fault);
+    } finally {
+      AdmissionController.release();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.receivers.AbstractInOutMessageReceiver;
+import org.apache.axis2.rpc.receivers.RPCMessageReceiver;
+
+/**
+ * Applies admission control and the fault codes of {@link Faults} around the standard {@link RPCMessageReceiver}.
+ *
+ * <p>{@link AbstractInOutMessageReceiver} sends the response only after
+ * {@link #invokeBusinessLogic(org.apache.axis2.context.MessageContext, org.apache.axis2.context.MessageContext)}
+ * returns, so calls are admitted around {@link #receive(org.apache.axis2.context.MessageContext)} instead.  This
+ * holds the admission, in-flight count, and {@link ResponseBudget} reservation until the response has been built
+ * and written.  When Axis2 is configured to invoke the operation on a separate thread, the call is admitted again
+ * on that thread, and the response is then sent after the call is released.</p>
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  AdmissionController
+ */
+public class AoservMessageReceiver extends RPCMessageReceiver {
+
+  @Override
+  public void receive(MessageContext inMessage) throws AxisFault {
+    AdmissionController.admit(inMessage);
+    try {
+      super.receive(inMessage);
+    } finally {
+      AdmissionController.release();
+    }
+  }
+
+  @Override
+  public void invokeBusinessLogic(MessageContext inMessage, MessageContext outMessage) throws AxisFault {
+    // Already admitted by receive, unless invoked on a separate thread
+    boolean admit = !RequestContext.get().isActive();
+    if (admit) {
+      AdmissionController.admit(inMessage);
+    }
+    try {
+      super.invokeBusinessLogic(inMessage, outMessage);
+    } catch (AxisFault fault) {
+      throw Faults.toAxisFault(inMessage, fault);
+    } finally {
+      if (admit) {
+        AdmissionController.release();
+      }
+    }
+  }
+}
@@ -27,7 +27,6 @@ import com.aoapps.hodgepodge.ws.WsEncoder;
 import com.aoapps.lang.NullArgumentException;
 import com.aoapps.lang.dto.DtoFactory;
 import com.aoapps.lang.i18n.Locales;
-import com.aoapps.lang.i18n.ThreadLocale;
 import com.aoapps.lang.validation.ValidationResult;
 import com.aoapps.net.Protocol;
 import com.aoapps.net.dto.DomainLabel;
@@ -40,6 +39,7 @@ import com.aoapps.net.dto.MacAddress;
 import com.aoapps.net.dto.Port;
 import com.aoapps.security.Password;
 import com.aoindustries.aoserv.client.AoservConnector;
+import com.aoindustries.aoserv.client.AoservTable;
 import com.aoindustries.aoserv.client.dto.AccountName;
 import com.aoindustries.aoserv.client.dto.Gecos;
 import com.aoindustries.aoserv.client.dto.HashedKey;
@@ -64,13 +64,20 @@ import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.security.auth.login.AccountLockedException;
@@ -120,106 +127,116 @@ public class AoservService {
     return value;
   }
 
+  /**
+   * The maximum number of parsed locales cached, since the locale is chosen by the client.
+   */
+  private static final int MAX_CACHED_LOCALES = 256;
+
+  /**
+   * Cache of parsed locales, by the name sent by the client.
+   */
+  private static final ConcurrentMap<String, Locale> locales = new ConcurrentHashMap<>();
+
   private static Locale getLocale(Credentials credentials) {
     String localeName = nullIfEmpty(credentials.getLocale());
-    return localeName == null ? Locale.getDefault() : Locales.parseLocale(localeName);
+    if (localeName == null) {
+      return Locale.getDefault();
+    }
+    Locale locale = locales.get(localeName);
+    if (locale == null) {
+      locale = Locales.parseLocale(localeName);
+      if (locales.size() < MAX_CACHED_LOCALES) {
+        Locale existing = locales.putIfAbsent(localeName, locale);
+        if (existing != null) {
+          locale = existing;
+        }
+      }
+    }
+    return locale;
   }
 
   /**
-   * Connectors are cached so the LoginException "ping" check is only called the first time.
-   * This is to avoid an unnecessary round-trip to the server for each call.
+   * A connector along with its password.
    */
-  static class ConnectorCacheKey {
+  static class CachedConnector {
 
-    private final com.aoindustries.aoserv.client.account.User.Name username;
-    private final String password; // TODO: Store as Password object or char[], destroy when evicting from cache or shutting down service, length-constant comparisons
-    private final com.aoindustries.aoserv.client.account.User.Name switchUser;
-    private final int hash;
+    private final char[] password;
+    private final AoservConnector conn;
 
-    ConnectorCacheKey(com.aoindustries.aoserv.client.account.User.Name username, String password, com.aoindustries.aoserv.client.account.User.Name switchUser) {
-      this.username = NullArgumentException.checkNotNull(username, "username");
+    CachedConnector(char[] password, AoservConnector conn) {
       this.password = NullArgumentException.checkNotNull(password, "password");
-      this.switchUser = NullArgumentException.checkNotNull(switchUser, "switchUser");
-      int newHash = username.hashCode();
-      newHash = newHash * 31 + password.hashCode();
-      newHash = newHash * 31 + switchUser.hashCode();
-      this.hash = newHash;
+      this.conn = NullArgumentException.checkNotNull(conn, "conn");
     }
 
-    @Override
-    public int hashCode() {
-      return hash;
+    /**
+     * Compares the password in length-constant time, without copying the password given.
+     */
+    boolean passwordMatches(String other) {
+      int diff = password.length ^ other.length();
+      for (int i = 0; i < password.length && i < other.length(); i++) {
+        diff |= password[i] ^ other.charAt(i);
+      }
+      return diff == 0;
     }
 
-    @Override
-    public boolean equals(Object obj) {
-      if (!(obj instanceof ConnectorCacheKey)) {
-        return false;
-      }
-      ConnectorCacheKey other = (ConnectorCacheKey) obj;
-      return
-          // hash check shortcut
-          hash == other.hash // TODO: No shortcut for length-constant time?
-              // .equals fields
-              && username.equals(other.username)
-              && password.equals(other.password)
-              && switchUser.equals(other.switchUser);
+    /**
+     * Wipes the password from memory.
+     * The connector must no longer be found in the cache once destroyed.
+     */
+    void destroy() {
+      Arrays.fill(password, (char) 0);
     }
   }
 
   /**
-   * Cache of connectors.
+   * The key of the connectors cached without a switchUser.
+   */
+  private static final String NO_SWITCH_USER = "";
+
+  /**
+   * Connectors are cached so the LoginException "ping" check is only called the first time.
+   * This is to avoid an unnecessary round-trip to the server for each call.
+   *
+   * <p>The keys are the username then switchUser exactly as sent by the client, so a cached connector is found
+   * without validating the names again or allocating a key.  The password is not part of the key, but is checked
+   * against the {@link CachedConnector} found.</p>
    */
-  private static final ConcurrentMap<ConnectorCacheKey, AoservConnector> connectorCache = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, ConcurrentMap<String, CachedConnector>> connectorCache = new ConcurrentHashMap<>();
 
+  /**
+   * Resolves the locale and identity of the current call.
+   * Once a connector is cached for the credentials, this allocates nothing.
+   */
   @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
   private static AoservConnector getConnector(Credentials credentials) throws LoginException, RemoteException {
     try {
-      com.aoindustries.aoserv.client.account.User.Name username = com.aoindustries.aoserv.client.account.User.Name.valueOf(credentials.getUsername().getName());
-      String password = credentials.getPassword();
-      com.aoindustries.aoserv.client.account.User.Name switchUser = com.aoindustries.aoserv.client.account.User.Name.valueOf(
-          credentials.getSwitchUser() == null
-              ? null
-              : nullIfEmpty(credentials.getSwitchUser().getName())
-      );
-      if (switchUser == null) {
-        switchUser = username;
-      }
-      ConnectorCacheKey cacheKey = new ConnectorCacheKey(username, password, switchUser);
+      RequestContext context = RequestContext.get();
+      context.setLocale(getLocale(credentials));
+      context.restrictTimeout(credentials.getTimeout());
+      context.checkDeadline();
+      String username = NullArgumentException.checkNotNull(credentials.getUsername().getName(), "username");
+      String password = NullArgumentException.checkNotNull(credentials.getPassword(), "password");
+      String switchUser = credentials.getSwitchUser() == null ? null : nullIfEmpty(credentials.getSwitchUser().getName());
       // Check cache first
-      AoservConnector conn = connectorCache.get(cacheKey);
-      if (conn == null) {
+      ConcurrentMap<String, CachedConnector> bySwitchUser = connectorCache.get(username);
+      CachedConnector cached = bySwitchUser == null ? null : bySwitchUser.get(switchUser == null ? NO_SWITCH_USER : switchUser);
+      if (cached == null || !cached.passwordMatches(password)) {
+        // Not charged to the account until authenticated, so a wrong password cannot use the account's slots
+        Semaphore authenticatingPermits = context.isActive() ? AccountScheduler.acquireAuthentication(context) : null;
         try {
-          conn = AoservConnector.getConnector(
-              switchUser,
-              username,
-              password,
-              null
-          );
-          conn.ping();
-          AoservConnector existing = connectorCache.putIfAbsent(cacheKey, conn);
-          if (existing != null) {
-            conn = existing;
+          cached = newConnector(username, password, switchUser);
+        } finally {
+          if (authenticatingPermits != null) {
+            authenticatingPermits.release();
           }
-        } catch (IOException err) {
-          String message = err.getMessage();
-          if (message != null) {
-            if (message.contains("Unable to find BusinessAdministrator")) {
-              throw toLoginException(new AccountNotFoundException("Account Not Found"));
-            }
-            if (message.contains("Connection attempted with invalid password")) {
-              throw toLoginException(new FailedLoginException("Incorrect Password"));
-            }
-            if (message.contains("BusinessAdministrator disabled")) {
-              throw toLoginException(new AccountLockedException("Account Disabled"));
-            }
-          }
-          throw toRemoteException(err);
-        } catch (Throwable t) {
-          throw toRemoteException(t);
         }
+        // aoserv-client has no per-call timeout, so check the deadline once the first round-trip completes
+        context.checkDeadline();
+      }
+      if (context.isActive() && context.getAccount() == null) {
+        AccountScheduler.acquire(context, username);
       }
-      return conn;
+      return cached.conn;
     } catch (LoginException | RemoteException td) {
       throw td;
     } catch (Throwable t) {
@@ -227,6 +244,87 @@ public class AoservService {
     }
   }
 
+  /**
+   * Creates, authenticates, and caches a new connector.  Replaces any connector cached with a different password.
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  private static CachedConnector newConnector(String usernameStr, String password, String switchUserStr) throws LoginException, RemoteException {
+    try {
+      com.aoindustries.aoserv.client.account.User.Name username = com.aoindustries.aoserv.client.account.User.Name.valueOf(usernameStr);
+      com.aoindustries.aoserv.client.account.User.Name switchUser = switchUserStr == null
+          ? username
+          : com.aoindustries.aoserv.client.account.User.Name.valueOf(switchUserStr);
+      AoservConnector conn = AoservConnector.getConnector(
+          switchUser,
+          username,
+          password,
+          null
+      );
+      conn.ping();
+      CachedConnector cached = new CachedConnector(password.toCharArray(), conn);
+      CachedConnector replaced = connectorCache
+          .computeIfAbsent(usernameStr, key -> new ConcurrentHashMap<>())
+          .put(switchUserStr == null ? NO_SWITCH_USER : switchUserStr, cached);
+      if (replaced != null) {
+        replaced.destroy();
+        TableWatcher.removeConnector(replaced.conn);
+      }
+      return cached;
+    } catch (IOException err) {
+      String message = err.getMessage();
+      if (message != null) {
+        if (message.contains("Unable to find BusinessAdministrator")) {
+          throw toLoginException(new AccountNotFoundException("Account Not Found"));
+        }
+        if (message.contains("Connection attempted with invalid password")) {
+          throw toLoginException(new FailedLoginException("Incorrect Password"));
+        }
+        if (message.contains("BusinessAdministrator disabled")) {
+          throw toLoginException(new AccountLockedException("Account Disabled"));
+        }
+      }
+      throw toRemoteException(err);
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Checks if a connector is currently cached.
+   */
+  static boolean isCachedConnector(AoservConnector conn) {
+    for (ConcurrentMap<String, CachedConnector> bySwitchUser : connectorCache.values()) {
+      for (CachedConnector cached : bySwitchUser.values()) {
+        if (cached.conn == conn) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes all connectors from the cache, wiping the cached passwords from memory.
+   *
+   * @return  The number of connectors removed
+   */
+  static int closeConnectors() {
+    int removed = 0;
+    Iterator<ConcurrentMap<String, CachedConnector>> bySwitchUserIter = connectorCache.values().iterator();
+    while (bySwitchUserIter.hasNext()) {
+      ConcurrentMap<String, CachedConnector> bySwitchUser = bySwitchUserIter.next();
+      bySwitchUserIter.remove();
+      Iterator<CachedConnector> iter = bySwitchUser.values().iterator();
+      while (iter.hasNext()) {
+        CachedConnector cached = iter.next();
+        iter.remove();
+        cached.destroy();
+        removed++;
+      }
+    }
+    return removed;
+  }
+
   private static final ConcurrentMap<Class<?>, PropertyDescriptor[]> stringProperties = new ConcurrentHashMap<>();
 
   private static PropertyDescriptor[] getStringProperties(Class<?> type) throws IntrospectionException {
@@ -257,39 +355,102 @@ public class AoservService {
     }
   }*/
 
+  /**
+   * Encodes the string properties of a data transfer object to avoid invalid characters.
+   *
+   * @return  The total number of characters in the string properties, for the {@link ResponseBudget}
+   */
+  @SuppressWarnings("StringEquality")
+  private static int encodeDto(PropertyDescriptor[] stringProps, Object dto) throws IllegalAccessException, InvocationTargetException {
+    int chars = 0;
+    for (PropertyDescriptor property : stringProps) {
+      String value = (String) property.getReadMethod().invoke(dto);
+      String encoded = WsEncoder.encode(value);
+      if (
+          // String identity equals intentional:
+          encoded != value
+      ) {
+        // System.out.println("WsEncoded: "+dto.getClass().getName()+": "+dto);
+        property.getWriteMethod().invoke(dto, encoded);
+      }
+      if (encoded != null) {
+        chars += encoded.length();
+      }
+    }
+    return chars;
+  }
+
+  /**
+   * Converts a single object to a data transfer object.
+   *
+   * @return  The data transfer object or {@code null} when {@code dtoFactory} is {@code null}
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  static <T> T getDto(Class<T> clazz, DtoFactory<? extends T> dtoFactory) throws RemoteException {
+    try {
+      if (dtoFactory == null) {
+        return null;
+      }
+      T dto = dtoFactory.getDto();
+      encodeDto(getStringProperties(clazz), dto);
+      return dto;
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      throw toRemoteException(cause == null ? e : cause);
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * The deadline is checked every {@code DEADLINE_CHECK_MASK + 1} rows converted.
+   */
+  private static final int DEADLINE_CHECK_MASK = 0x3ff;
+
   /**
    * Converts the collection to an array of data transfer objects in arbitrary order.
+   * Memory for the response is reserved from the {@link ResponseBudget} before conversion.
+   *
+   * @param  pageOperation  The name of the paged form of the operation, suggested when the response is too large,
+   *                        or {@code null} when the operation has no paged form
    */
-  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch", "StringEquality"})
-  static <T> T[] getDtoArray(Class<T> clazz, Collection<? extends DtoFactory<? extends T>> set) throws RemoteException {
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  static <T> T[] getDtoArray(Class<T> clazz, Collection<? extends DtoFactory<? extends T>> set, String pageOperation) throws RemoteException {
     try {
+      RequestContext context = RequestContext.get();
+      // Check the deadline once the rows are retrieved
+      context.checkDeadline();
       int size = set.size();
+      PropertyDescriptor[] stringProps = getStringProperties(clazz);
+      if (context.isActive()) {
+        ResponseBudget.reserve(
+            context,
+            clazz,
+            ResponseBudget.estimate(clazz, stringProps.length, size),
+            size,
+            pageOperation
+        );
+      }
       @SuppressWarnings("unchecked")
       T[] array = (T[]) Array.newInstance(clazz, size);
 
-      PropertyDescriptor[] stringProps = getStringProperties(clazz);
+      long chars = 0;
       int index = 0;
       for (DtoFactory<? extends T> dtoFactory : set) {
         T dto = dtoFactory.getDto();
-
-        // Encode string properties to avoid invalid characters
-        for (PropertyDescriptor property : stringProps) {
-          String value = (String) property.getReadMethod().invoke(dto);
-          String encoded = WsEncoder.encode(value);
-          if (
-              // String identity equals intentional:
-              encoded != value
-          ) {
-            // System.out.println("WsEncoded: "+dtoFactory.getClass().getName()+": "+dtoFactory);
-            property.getWriteMethod().invoke(dto, encoded);
-          }
-        }
+        chars += encodeDto(stringProps, dto);
         array[index++] = dto;
+        if ((index & DEADLINE_CHECK_MASK) == 0) {
+          context.checkDeadline();
+        }
       }
       if (index != size) {
         throw new AssertionError("index != size: " + index + " != " + size);
       }
+      ResponseBudget.update(clazz, stringProps.length, size, chars);
       return array;
+    } catch (DeadlineExceededException | ResponseTooLargeException | ServiceUnavailableException e) {
+      throw e;
     } catch (InvocationTargetException e) {
       Throwable cause = e.getCause();
       throw toRemoteException(cause == null ? e : cause);
@@ -298,320 +459,259 @@ public class AoservService {
     }
   }
 
+  /**
+   * Gets one page of rows.
+   *
+   * @param  offset  The index of the first row, starting at zero
+   * @param  limit   The maximum number of rows
+   */
+  static <E> List<E> getPage(List<E> rows, int offset, int limit) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset < 0: " + offset);
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit < 1: " + limit);
+    }
+    int size = rows.size();
+    int from = Math.min(offset, size);
+    int to = (int) Math.min((long) from + limit, size);
+    return rows.subList(from, to);
+  }
+
+  // </editor-fold>
+
+  // <editor-fold defaultstate="collapsed" desc="Life Cycle">
+  /**
+   * Performs the one-time work otherwise paid by the first call to each operation:
+   * introspects the beans of all public operations, builds the string properties
+   * of all returned data transfer objects, and exercises the validators.
+   */
+  static void warmUp() throws IntrospectionException {
+    for (Method method : AoservService.class.getDeclaredMethods()) {
+      if (Modifier.isPublic(method.getModifiers())) {
+        for (Class<?> paramType : method.getParameterTypes()) {
+          warmUpBean(paramType);
+        }
+        Class<?> returnType = method.getReturnType();
+        Class<?> dtoType = returnType.isArray() ? returnType.getComponentType() : returnType;
+        if (warmUpBean(dtoType)) {
+          getStringProperties(dtoType);
+        }
+      }
+    }
+    warmUpValidators();
+  }
+
+  /**
+   * Introspects the given type when it is a bean.
+   *
+   * @return  {@code true} when the type is a bean
+   */
+  private static boolean warmUpBean(Class<?> type) throws IntrospectionException {
+    if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+      return false;
+    }
+    Introspector.getBeanInfo(type);
+    return true;
+  }
+
+  private static void warmUpValidators() {
+    com.aoindustries.aoserv.client.account.Account.Name.validate("AOINDUSTRIES");
+    com.aoapps.net.DomainLabel.validate("www");
+    com.aoapps.net.DomainLabels.validate("www.example");
+    com.aoapps.net.DomainName.validate("example.com");
+    com.aoapps.net.Email.validate("support", "example.com");
+    com.aoindustries.aoserv.client.linux.User.Gecos.validate("AO Industries, Inc.");
+    com.aoindustries.aoserv.client.linux.Group.Name.validate("users");
+    com.aoapps.security.HashedKey.valueOf(com.aoapps.security.HashedKey.NO_KEY_VALUE);
+    com.aoapps.security.HashedPassword.valueOf(com.aoapps.security.HashedPassword.NO_PASSWORD_VALUE);
+    com.aoapps.net.HostAddress.validate("example.com");
+    com.aoapps.net.InetAddress.validate("127.0.0.1");
+    com.aoindustries.aoserv.client.linux.LinuxId.validate(1000);
+    com.aoindustries.aoserv.client.linux.User.Name.validate("user");
+    com.aoapps.net.MacAddress.validate("00:00:00:00:00:00");
+    com.aoindustries.aoserv.client.mysql.Database.Name.validate("database");
+    com.aoindustries.aoserv.client.mysql.Server.Name.validate("mysql");
+    com.aoindustries.aoserv.client.mysql.TableName.validate("table");
+    com.aoindustries.aoserv.client.mysql.User.Name.validate("user");
+    com.aoapps.net.Port.validate(80, Protocol.TCP);
+    com.aoindustries.aoserv.client.postgresql.Database.Name.validate("database");
+    com.aoindustries.aoserv.client.postgresql.Server.Name.validate("postgresql");
+    com.aoindustries.aoserv.client.postgresql.User.Name.validate("user");
+    com.aoindustries.aoserv.client.linux.PosixPath.validate("/");
+    com.aoindustries.aoserv.client.account.User.Name.validate("user");
+  }
+
   // </editor-fold>
 
   // <editor-fold defaultstate="collapsed" desc="Validation">
   public String validateAccountName(Credentials credentials, AccountName accounting) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.account.Account.Name.validate(accounting.getAccounting());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.account.Account.Name.validate(accounting.getAccounting());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateDomainLabel(Credentials credentials, DomainLabel label) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.DomainLabel.validate(label.getLabel());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.DomainLabel.validate(label.getLabel());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateDomainLabels(Credentials credentials, DomainLabels labels) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.DomainLabels.validate(labels.getLabels());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.DomainLabels.validate(labels.getLabels());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateDomainName(Credentials credentials, DomainName domain) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.DomainName.validate(domain.getDomain());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.DomainName.validate(domain.getDomain());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateEmail(Credentials credentials, Email email) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.Email.validate(email.getLocalPart(), email.getDomain().getDomain());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.Email.validate(email.getLocalPart(), email.getDomain().getDomain());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateGecos(Credentials credentials, Gecos gecos) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.linux.User.Gecos.validate(gecos.getValue());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.linux.User.Gecos.validate(gecos.getValue());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateGroupName(Credentials credentials, LinuxGroupName groupName) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.linux.Group.Name.validate(groupName.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.linux.Group.Name.validate(groupName.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateHashedKey(Credentials credentials, HashedKey hashedKey) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
+    AoservConnector conn = getConnector(credentials); // Checks authentication
     try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      try {
-        com.aoapps.security.HashedKey.valueOf(hashedKey.getHashedKey());
-        return null;
-      } catch (IllegalArgumentException e) {
-        String message = e.getLocalizedMessage();
-        if (message == null || message.isEmpty()) {
-          message = e.getMessage();
-        }
-        if (message == null || message.isEmpty()) {
-          message = e.toString();
-        }
-        return message;
+      com.aoapps.security.HashedKey.valueOf(hashedKey.getHashedKey());
+      return null;
+    } catch (IllegalArgumentException e) {
+      String message = e.getLocalizedMessage();
+      if (message == null || message.isEmpty()) {
+        message = e.getMessage();
+      }
+      if (message == null || message.isEmpty()) {
+        message = e.toString();
       }
-    } finally {
-      ThreadLocale.set(oldLocale);
+      return message;
     }
   }
 
   public String validateHashedPassword(Credentials credentials, HashedPassword hashedPassword) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
+    AoservConnector conn = getConnector(credentials); // Checks authentication
     try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      try {
-        com.aoapps.security.HashedPassword.valueOf(hashedPassword.getHashedPassword());
-        return null;
-      } catch (IllegalArgumentException e) {
-        String message = e.getLocalizedMessage();
-        if (message == null || message.isEmpty()) {
-          message = e.getMessage();
-        }
-        if (message == null || message.isEmpty()) {
-          message = e.toString();
-        }
-        return message;
+      com.aoapps.security.HashedPassword.valueOf(hashedPassword.getHashedPassword());
+      return null;
+    } catch (IllegalArgumentException e) {
+      String message = e.getLocalizedMessage();
+      if (message == null || message.isEmpty()) {
+        message = e.getMessage();
+      }
+      if (message == null || message.isEmpty()) {
+        message = e.toString();
       }
-    } finally {
-      ThreadLocale.set(oldLocale);
+      return message;
     }
   }
 
   public String validateHostname(Credentials credentials, HostAddress hostname) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.HostAddress.validate(hostname.getAddress());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.HostAddress.validate(hostname.getAddress());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateInetAddress(Credentials credentials, InetAddress ip) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.InetAddress.validate(ip.getAddress());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.InetAddress.validate(ip.getAddress());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateLinuxId(Credentials credentials, LinuxId linuxId) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.linux.LinuxId.validate(linuxId.getId());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.linux.LinuxId.validate(linuxId.getId());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateLinuxUserName(Credentials credentials, LinuxUserName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.linux.User.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.linux.User.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateMacAddress(Credentials credentials, MacAddress address) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.MacAddress.validate(address.getAddress());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.MacAddress.validate(address.getAddress());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateMysqlDatabaseName(Credentials credentials, MysqlDatabaseName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.mysql.Database.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.mysql.Database.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateMysqlServerName(Credentials credentials, MysqlServerName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.mysql.Server.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.mysql.Server.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateMysqlTableName(Credentials credentials, MysqlTableName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.mysql.TableName.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.mysql.TableName.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateMysqlUserName(Credentials credentials, MysqlUserName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.mysql.User.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.mysql.User.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validatePort(Credentials credentials, Port port) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoapps.net.Port.validate(
-          port.getPort(),
-          Protocol.valueOf(port.getProtocol())
-      );
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoapps.net.Port.validate(
+        port.getPort(),
+        Protocol.valueOf(port.getProtocol())
+    );
+    return result.isValid() ? null : result.toString();
   }
 
   public String validatePostgresDatabaseName(Credentials credentials, PostgresDatabaseName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.postgresql.Database.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.postgresql.Database.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validatePostgresServerName(Credentials credentials, PostgresServerName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.postgresql.Server.Name.validate(name.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.postgresql.Server.Name.validate(name.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validatePostgresUserName(Credentials credentials, PostgresUserName userName) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.postgresql.User.Name.validate(userName.getName());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.postgresql.User.Name.validate(userName.getName());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validatePosixPath(Credentials credentials, PosixPath posixPath) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.linux.PosixPath.validate(posixPath.getPath());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.linux.PosixPath.validate(posixPath.getPath());
+    return result.isValid() ? null : result.toString();
   }
 
   public String validateUserName(Credentials credentials, UserName name) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
-    try {
-      ThreadLocale.set(getLocale(credentials));
-      AoservConnector conn = getConnector(credentials); // Checks authentication
-      ValidationResult result = com.aoindustries.aoserv.client.account.User.Name.validate(name.toString());
-      return result.isValid() ? null : result.toString();
-    } finally {
-      ThreadLocale.set(oldLocale);
-    }
+    AoservConnector conn = getConnector(credentials); // Checks authentication
+    ValidationResult result = com.aoindustries.aoserv.client.account.User.Name.validate(name.toString());
+    return result.isValid() ? null : result.toString();
   }
 
   // </editor-fold>
@@ -619,17 +719,13 @@ public class AoservService {
   // <editor-fold defaultstate="collapsed" desc="Passwords">
   @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
   public boolean passwordMatches(Credentials credentials, HashedPassword hashedPassword, String plaintext) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
     try {
-      ThreadLocale.set(getLocale(credentials));
       AoservConnector conn = getConnector(credentials);
       return com.aoapps.security.HashedPassword.valueOf(hashedPassword.getHashedPassword()).matches(new Password(plaintext.toCharArray()));
-    } catch (LoginException e) {
+    } catch (LoginException | RemoteException e) {
       throw e;
     } catch (Throwable t) {
       throw toRemoteException(t);
-    } finally {
-      ThreadLocale.set(oldLocale);
     }
   }
 
@@ -639,34 +735,204 @@ public class AoservService {
   // TODO: Implement
   // </editor-fold>
 
+  // <editor-fold defaultstate="collapsed" desc="Table Changes">
+  /**
+   * Gets a table that may be watched for changes by its name, which is the name of its table operation
+   * without the "get" prefix.
+   */
+  private static AoservTable<?, ?> getWatchedTable(AoservConnector conn, String table) throws RemoteException {
+    switch (table) {
+      case "LinuxDaemonAcl":
+        return conn.getLinux().getDaemonAcl();
+      case "LinuxServer":
+        return conn.getLinux().getServer();
+      default:
+        throw new RemoteException("Table not found: " + table);
+    }
+  }
+
+  /**
+   * Waits for any of the given tables to change, replacing polling of the table operations.
+   * This is a blocking long-poll: the call holds its thread and its share of the capacity of the service while
+   * waiting, with the number of waiting calls limited by the {@code maxParkedCalls} service parameter.
+   *
+   * @param  tables         The names of the tables, which are the names of their table operations without the
+   *                        "get" prefix, such as {@code "LinuxServer"}
+   * @param  knownVersions  The versions of the tables returned by the previous call, or empty to get the current
+   *                        versions without waiting
+   * @param  timeout        The maximum time to wait, in milliseconds, further limited by the deadline of the call
+   *
+   * @return  The current version of each table, in the same order as {@code tables}.  The tables with a version
+   *          different than in {@code knownVersions} have changed.  Versions are only meaningful when compared for
+   *          equality.
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public long[] awaitTableChange(Credentials credentials, String[] tables, long[] knownVersions, long timeout) throws LoginException, RemoteException {
+    try {
+      AoservConnector conn = getConnector(credentials);
+      if (knownVersions != null && knownVersions.length != 0 && knownVersions.length != tables.length) {
+        throw new RemoteException(
+            "knownVersions.length != tables.length: " + knownVersions.length + " != " + tables.length
+        );
+      }
+      AoservTable<?, ?>[] watched = new AoservTable<?, ?>[tables.length];
+      for (int i = 0; i < tables.length; i++) {
+        watched[i] = getWatchedTable(conn, tables[i]);
+      }
+      RequestContext context = RequestContext.get();
+      long wait = Math.min(TimeUnit.MILLISECONDS.toNanos(Math.max(timeout, 0)), context.getRemaining());
+      return TableWatcher.await(
+          conn,
+          watched,
+          (knownVersions == null || knownVersions.length == 0) ? null : knownVersions,
+          wait
+      );
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  // </editor-fold>
+
   // <editor-fold defaultstate="collapsed" desc="Tables">
   @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
   public LinuxDaemonAcl[] getLinuxDaemonAcl(Credentials credentials) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
     try {
-      ThreadLocale.set(getLocale(credentials));
-      return getDtoArray(LinuxDaemonAcl.class, getConnector(credentials).getLinux().getDaemonAcl().getRows());
+      return getDtoArray(LinuxDaemonAcl.class, getConnector(credentials).getLinux().getDaemonAcl().getRows(), "getLinuxDaemonAclPage");
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets one page of {@link LinuxDaemonAcl}, for when the whole table is too large for a single response.
+   * Pages are taken from the rows in their current order, which may change when the table is updated.
+   *
+   * @param  offset  The index of the first row, starting at zero
+   * @param  limit   The maximum number of rows
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxDaemonAcl[] getLinuxDaemonAclPage(Credentials credentials, int offset, int limit) throws LoginException, RemoteException {
+    try {
+      return getDtoArray(
+          LinuxDaemonAcl.class,
+          getPage(getConnector(credentials).getLinux().getDaemonAcl().getRows(), offset, limit),
+          "getLinuxDaemonAclPage"
+      );
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets one {@link LinuxDaemonAcl} by its primary key, using the index of the table.
+   *
+   * @return  The row or {@code null} when not found
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxDaemonAcl getLinuxDaemonAclById(Credentials credentials, int id) throws LoginException, RemoteException {
+    try {
+      return getDto(LinuxDaemonAcl.class, getConnector(credentials).getLinux().getDaemonAcl().get(id));
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets the {@link LinuxDaemonAcl} of one {@link LinuxServer}, using the index of the table.
+   *
+   * @return  The rows, which is empty when the server is not found
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxDaemonAcl[] getLinuxDaemonAclByLinuxServer(Credentials credentials, int linuxServer) throws LoginException, RemoteException {
+    try {
+      com.aoindustries.aoserv.client.linux.Server server = getConnector(credentials).getLinux().getServer().get(linuxServer);
+      return getDtoArray(
+          LinuxDaemonAcl.class,
+          server == null ? Collections.emptyList() : server.getDaemonAcls(),
+          // No paged form: the whole table is not a substitute for the rows of one server
+          null
+      );
     } catch (LoginException | RemoteException e) {
       throw e;
     } catch (Throwable t) {
       throw toRemoteException(t);
-    } finally {
-      ThreadLocale.set(oldLocale);
     }
   }
 
   @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
   public LinuxServer[] getLinuxServer(Credentials credentials) throws LoginException, RemoteException {
-    Locale oldLocale = ThreadLocale.get();
     try {
-      ThreadLocale.set(getLocale(credentials));
-      return getDtoArray(LinuxServer.class, getConnector(credentials).getLinux().getServer().getRows());
+      return getDtoArray(LinuxServer.class, getConnector(credentials).getLinux().getServer().getRows(), "getLinuxServerPage");
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets one page of {@link LinuxServer}, for when the whole table is too large for a single response.
+   * Pages are taken from the rows in their current order, which may change when the table is updated.
+   *
+   * @param  offset  The index of the first row, starting at zero
+   * @param  limit   The maximum number of rows
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxServer[] getLinuxServerPage(Credentials credentials, int offset, int limit) throws LoginException, RemoteException {
+    try {
+      return getDtoArray(
+          LinuxServer.class,
+          getPage(getConnector(credentials).getLinux().getServer().getRows(), offset, limit),
+          "getLinuxServerPage"
+      );
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets one {@link LinuxServer} by its primary key, using the index of the table.
+   *
+   * @return  The row or {@code null} when not found
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxServer getLinuxServerById(Credentials credentials, int id) throws LoginException, RemoteException {
+    try {
+      return getDto(LinuxServer.class, getConnector(credentials).getLinux().getServer().get(id));
+    } catch (LoginException | RemoteException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw toRemoteException(t);
+    }
+  }
+
+  /**
+   * Gets one {@link LinuxServer} by its unique hostname, using the index of the table.
+   *
+   * @return  The row or {@code null} when not found
+   */
+  @SuppressWarnings({"UseSpecificCatch", "TooBroadCatch"})
+  public LinuxServer getLinuxServerByHostname(Credentials credentials, DomainName hostname) throws LoginException, RemoteException {
+    try {
+      return getDto(
+          LinuxServer.class,
+          getConnector(credentials).getLinux().getServer().get(com.aoapps.net.DomainName.valueOf(hostname.getDomain()))
+      );
     } catch (LoginException | RemoteException e) {
       throw e;
     } catch (Throwable t) {
       throw toRemoteException(t);
-    } finally {
-      ThreadLocale.set(oldLocale);
     }
   }
   // </editor-fold>
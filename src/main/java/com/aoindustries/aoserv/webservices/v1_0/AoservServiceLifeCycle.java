@@ -0,0 +1,237 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.beans.IntrospectionException;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.description.AxisDescription;
+import org.apache.axis2.description.AxisService;
+import org.apache.axis2.engine.ServiceLifeCycle;
+
+/**
+ * Warms-up {@link AoservService} on startup and drains it on shutdown.
+ * <ol>
+ * <li>Startup: Validates all parameters, configures the {@link AdmissionController}, {@link AccountScheduler},
+ *     {@link ResponseBudget}, and {@link TableWatcher}, then introspects all data transfer objects and exercises
+ *     the validators, so the first call to each operation does not pay for the class loading and introspection.
+ *     Finally registers the {@link AccountSchedulerMXBean}.</li>
+ * <li>Shutdown: Wakes calls waiting for table changes, stops accepting new calls, waits up to the
+ *     {@code shutdownDrainTimeout} service parameter for in-flight calls to complete, then removes all table
+ *     listeners and cached connectors, wiping the cached passwords from memory.
+ *     Unregisters the {@link AccountSchedulerMXBean}.</li>
+ * </ol>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class AoservServiceLifeCycle implements ServiceLifeCycle {
+
+  private static final Logger logger = Logger.getLogger(AoservServiceLifeCycle.class.getName());
+
+  /**
+   * The default maximum time, in milliseconds, to wait for in-flight calls to complete on shutdown.
+   */
+  private static final long DEFAULT_SHUTDOWN_DRAIN_TIMEOUT = 30L * 1000;
+
+  /**
+   * Gets a parameter as a long, or the default when not set.
+   */
+  static long getLongParameter(AxisDescription description, String name, long defaultValue) {
+    Object value = description.getParameterValue(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    String str = value.toString().trim();
+    if (str.isEmpty()) {
+      return defaultValue;
+    }
+    return Long.parseLong(str);
+  }
+
+  /**
+   * Gets a parameter as an int, or the default when not set.
+   */
+  static int getIntParameter(AxisDescription description, String name, int defaultValue) {
+    return Math.toIntExact(getLongParameter(description, name, defaultValue));
+  }
+
+  /**
+   * Parses a parameter of comma-separated {@code key=value} pairs, or an empty map when not set.
+   */
+  static Map<String, String> getMapParameter(AxisDescription description, String name) {
+    Map<String, String> map = new LinkedHashMap<>();
+    Object value = description.getParameterValue(name);
+    if (value != null) {
+      for (String entry : value.toString().split(",")) {
+        entry = entry.trim();
+        if (!entry.isEmpty()) {
+          int pos = entry.indexOf('=');
+          if (pos == -1) {
+            throw new IllegalArgumentException(name + ": '=' not found: " + entry);
+          }
+          map.put(entry.substring(0, pos).trim(), entry.substring(pos + 1).trim());
+        }
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Parses the account classes by name, always including the {@link AccountScheduler#DEFAULT_ACCOUNT_CLASS}.
+   */
+  private static Map<String, AccountScheduler.AccountClass> getAccountClassesByName(AxisService service) {
+    Map<String, String> limits = getMapParameter(service, "accountClassLimits");
+    Map<String, String> weights = getMapParameter(service, "accountClassWeights");
+    Set<String> classNames = new HashSet<>(limits.keySet());
+    classNames.addAll(weights.keySet());
+    classNames.add(AccountScheduler.DEFAULT_ACCOUNT_CLASS);
+    Map<String, AccountScheduler.AccountClass> accountClassesByName = new HashMap<>();
+    for (String className : classNames) {
+      String limit = limits.get(className);
+      String weight = weights.get(className);
+      accountClassesByName.put(
+          className,
+          new AccountScheduler.AccountClass(
+              limit == null ? AccountScheduler.DEFAULT_ACCOUNT_LIMIT : Integer.parseInt(limit),
+              weight == null ? AccountScheduler.DEFAULT_ACCOUNT_WEIGHT : Integer.parseInt(weight)
+          )
+      );
+    }
+    return accountClassesByName;
+  }
+
+  /**
+   * Parses the class of each account, by username.
+   */
+  private static Map<String, AccountScheduler.AccountClass> getAccountClasses(
+      AxisService service,
+      Map<String, AccountScheduler.AccountClass> accountClassesByName
+  ) {
+    Map<String, AccountScheduler.AccountClass> accountClasses = new HashMap<>();
+    for (Map.Entry<String, String> entry : getMapParameter(service, "accountClasses").entrySet()) {
+      AccountScheduler.AccountClass accountClass = accountClassesByName.get(entry.getValue());
+      if (accountClass == null) {
+        throw new IllegalArgumentException("accountClasses: Account class not found: " + entry.getValue());
+      }
+      accountClasses.put(entry.getKey(), accountClass);
+    }
+    return accountClasses;
+  }
+
+  private static ObjectName getAccountSchedulerName(AxisService service) throws MalformedObjectNameException {
+    return new ObjectName(
+        "com.aoindustries.aoserv.webservices:type=AccountScheduler,service=" + ObjectName.quote(service.getName())
+    );
+  }
+
+  @Override
+  public void startUp(ConfigurationContext configctx, AxisService service) {
+    // Read and validate all parameters before any side effect, so an invalid configuration leaves nothing behind
+    int maxConcurrentCalls = getIntParameter(service, "maxConcurrentCalls", AdmissionController.DEFAULT_MAX_CONCURRENT_CALLS);
+    int maxQueuedCalls = getIntParameter(service, "maxQueuedCalls", AdmissionController.DEFAULT_MAX_QUEUED_CALLS);
+    long callTimeout = getLongParameter(service, "callTimeout", AdmissionController.DEFAULT_CALL_TIMEOUT);
+    long maxQueueWait = getLongParameter(service, "maxQueueWait", AccountScheduler.DEFAULT_MAX_QUEUE_WAIT);
+    int maxAuthenticatingCalls = getIntParameter(service, "maxAuthenticatingCalls", AccountScheduler.DEFAULT_MAX_AUTHENTICATING_CALLS);
+    if (maxAuthenticatingCalls < 1) {
+      throw new IllegalArgumentException("maxAuthenticatingCalls < 1: " + maxAuthenticatingCalls);
+    }
+    Map<String, AccountScheduler.AccountClass> accountClassesByName = getAccountClassesByName(service);
+    Map<String, AccountScheduler.AccountClass> accountClasses = getAccountClasses(service, accountClassesByName);
+    long maxResponseMemory = getLongParameter(service, "maxResponseMemory", ResponseBudget.DEFAULT_MAX_RESPONSE_MEMORY);
+    long maxCallResponseMemory = getLongParameter(service, "maxCallResponseMemory", maxResponseMemory / 4);
+    long maxResponseMemoryWait = getLongParameter(service, "maxResponseMemoryWait", ResponseBudget.DEFAULT_MAX_RESPONSE_MEMORY_WAIT);
+    int maxParkedCalls = getIntParameter(service, "maxParkedCalls", TableWatcher.DEFAULT_MAX_PARKED_CALLS);
+    if (maxParkedCalls >= maxConcurrentCalls) {
+      throw new IllegalArgumentException(
+          "maxParkedCalls must be less than maxConcurrentCalls: " + maxParkedCalls + " >= " + maxConcurrentCalls
+      );
+    }
+    // Configure
+    AdmissionController.configure(maxConcurrentCalls, maxQueuedCalls, callTimeout);
+    AccountScheduler.configure(
+        maxConcurrentCalls,
+        maxQueueWait,
+        maxAuthenticatingCalls,
+        accountClassesByName.get(AccountScheduler.DEFAULT_ACCOUNT_CLASS),
+        accountClasses
+    );
+    ResponseBudget.configure(maxResponseMemory, maxCallResponseMemory, maxResponseMemoryWait);
+    TableWatcher.start(maxParkedCalls);
+    InFlight.start();
+    long startNanos = System.nanoTime();
+    try {
+      AoservService.warmUp();
+      if (logger.isLoggable(Level.FINE)) {
+        logger.fine(service.getName() + ": Warmed-up in " + ((System.nanoTime() - startNanos) / 1000000) + " ms");
+      }
+    } catch (IntrospectionException | RuntimeException e) {
+      // Warm-up is only an optimization: log and continue, the first calls will pay the cost
+      logger.log(Level.WARNING, service.getName() + ": Warm-up failed", e);
+    }
+    // Registered last, since it is only unregistered by shutDown, which is not called when startUp fails
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(AccountScheduler.mxBean, getAccountSchedulerName(service));
+    } catch (JMException e) {
+      // Metrics are optional: log and continue
+      logger.log(Level.WARNING, service.getName() + ": Unable to register metrics", e);
+    }
+  }
+
+  @Override
+  public void shutDown(ConfigurationContext configctx, AxisService service) {
+    // Wake calls waiting for table changes, so they do not delay the drain
+    TableWatcher.shutdown();
+    try {
+      int remaining = InFlight.shutdown(getLongParameter(service, "shutdownDrainTimeout", DEFAULT_SHUTDOWN_DRAIN_TIMEOUT));
+      if (remaining != 0) {
+        logger.warning(service.getName() + ": Shutting down with calls still in-flight: " + remaining);
+      }
+    } catch (InterruptedException e) {
+      logger.log(Level.WARNING, service.getName() + ": Interrupted while draining in-flight calls", e);
+      // Restore the interrupted status
+      Thread.currentThread().interrupt();
+    } finally {
+      TableWatcher.close();
+      int closed = AoservService.closeConnectors();
+      if (logger.isLoggable(Level.FINE)) {
+        logger.fine(service.getName() + ": Closed connectors: " + closed);
+      }
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(getAccountSchedulerName(service));
+      } catch (JMException e) {
+        logger.log(Level.WARNING, service.getName() + ": Unable to unregister metrics", e);
+      }
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * aoserv-webservices - SOAP web services for the AOServ Platform.
- * Copyright (C) 2009-2013, 2018, 2020, 2022  AO Industries, Inc.
+ * Copyright (C) 2009-2013, 2018, 2020, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -36,6 +36,7 @@ public class Credentials {
   private UserName username;
   private String password;
   private UserName switchUser;
+  private long timeout;
 
   public String getLocale() {
     return locale;
@@ -68,4 +69,17 @@ public class Credentials {
   public void setSwitchUser(UserName switchUser) {
     this.switchUser = switchUser;
   }
+
+  /**
+   * Gets the time budget of the call in milliseconds.
+   * The call fails with {@link DeadlineExceededException} when not completed in time.
+   * The server-configured time budget is used when {@code 0} or greater than the server's budget.
+   */
+  public long getTimeout() {
+    return timeout;
+  }
+
+  public void setTimeout(long timeout) {
+    this.timeout = timeout;
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.util.Collections;
+import javax.xml.namespace.QName;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.MessageContext;
+
+/**
+ * Gives the faults of the service a distinct SOAP fault code, so clients may recognize them, such as to retry,
+ * without parsing the fault message.
+ * <ul>
+ * <li>SOAP 1.1: The code is {@code soapenv:Server.<name>}, such as {@code soapenv:Server.ServiceUnavailable}</li>
+ * <li>SOAP 1.2: The code is {@code soapenv:Receiver} with a subcode of {@code <name>} in the namespace of the
+ *     service, such as {@code tns:ServiceUnavailable}</li>
+ * </ul>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Faults {
+
+  /** Make no instances. */
+  private Faults() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The target namespace of the service, derived by Axis2 from the package name.
+   */
+  static final String NAMESPACE = "http://v1_0.webservices.aoserv.aoindustries.com";
+
+  private static final String SOAP11_ENVELOPE_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
+
+  private static final String SOAP12_ENVELOPE_NAMESPACE = "http://www.w3.org/2003/05/soap-envelope";
+
+  private static final QName SOAP12_RECEIVER = new QName(SOAP12_ENVELOPE_NAMESPACE, "Receiver");
+
+  /**
+   * Gets the name of the fault code for the first exception of the service in the causes, if any.
+   *
+   * @return  The name or {@code null} when not a fault of the service
+   */
+  private static String getFaultName(Throwable t) {
+    while (t != null) {
+      if (t instanceof ServiceUnavailableException) {
+        return "ServiceUnavailable";
+      }
+      if (t instanceof DeadlineExceededException) {
+        return "DeadlineExceeded";
+      }
+      if (t instanceof ResponseTooLargeException) {
+        return "ResponseTooLarge";
+      }
+      t = t.getCause();
+    }
+    return null;
+  }
+
+  /**
+   * Creates a fault with the fault code of the service, when the cause is a fault of the service.
+   *
+   * @return  The new fault, or {@code fault} unchanged when not a fault of the service
+   */
+  static AxisFault toAxisFault(MessageContext inMessage, AxisFault fault) {
+    String name = getFaultName(fault);
+    if (name == null) {
+      return fault;
+    }
+    if (inMessage.isSOAP11()) {
+      return new AxisFault(
+          new QName(SOAP11_ENVELOPE_NAMESPACE, "Server." + name),
+          null,
+          fault.getMessage(),
+          fault
+      );
+    } else {
+      return new AxisFault(
+          SOAP12_RECEIVER,
+          Collections.singletonList(new QName(NAMESPACE, name)),
+          fault.getMessage(),
+          fault
+      );
+    }
+  }
+
+  /**
+   * Creates a fault for an exception of the service, with the fault code of the service.
+   */
+  static AxisFault makeFault(MessageContext inMessage, Throwable t) {
+    return toAxisFault(inMessage, AxisFault.makeFault(t));
+  }
+}
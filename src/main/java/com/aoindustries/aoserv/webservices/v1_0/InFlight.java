@@ -0,0 +1,125 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the number of calls currently executing within the service, so the
+ * service may stop accepting new calls and drain the in-flight calls on shutdown.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class InFlight {
+
+  /** Make no instances. */
+  private InFlight() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The message sent when a call is rejected because the service is shutting down.
+   */
+  static final String SHUTTING_DOWN = "Service is shutting down, please retry";
+
+  private static class Lock {
+    // Empty lock class to help heap profile
+  }
+
+  private static final Lock lock = new Lock();
+
+  private static int count;
+
+  private static boolean shuttingDown;
+
+  /**
+   * Registers a new call.
+   *
+   * @return  {@code true} when the call is accepted and {@link #exit()} must be called when done, or
+   *          {@code false} when the service is shutting down and the call must be rejected
+   */
+  static boolean enter() {
+    synchronized (lock) {
+      if (shuttingDown) {
+        return false;
+      }
+      count++;
+      return true;
+    }
+  }
+
+  /**
+   * Unregisters a call previously accepted by {@link #enter()}.
+   */
+  static void exit() {
+    synchronized (lock) {
+      if (count <= 0) {
+        throw new IllegalStateException("count <= 0: " + count);
+      }
+      if (--count == 0) {
+        lock.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of calls currently in-flight.
+   */
+  static int getCount() {
+    synchronized (lock) {
+      return count;
+    }
+  }
+
+  /**
+   * Resumes accepting calls, such as when the service is started again after a redeploy.
+   */
+  static void start() {
+    synchronized (lock) {
+      shuttingDown = false;
+    }
+  }
+
+  /**
+   * Stops accepting new calls then waits for all in-flight calls to complete.
+   *
+   * @param  timeout  The maximum number of milliseconds to wait
+   *
+   * @return  The number of calls still in-flight, which is zero when fully drained
+   */
+  static int shutdown(long timeout) throws InterruptedException {
+    synchronized (lock) {
+      shuttingDown = true;
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+      while (count > 0) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import com.aoapps.lang.i18n.ThreadLocale;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-thread state of the call currently being processed, including its resolved locale.
+ * A new instance is created per call by the message receivers, and only set on the thread for the duration of the
+ * call, so container threads do not keep the classes of the service loaded once it is undeployed.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  AdmissionController
+ * @see  AccountScheduler
+ * @see  ResponseBudget
+ */
+final class RequestContext {
+
+  private static final ThreadLocal<RequestContext> current = new ThreadLocal<>();
+
+  /**
+   * The context of threads without a call active, which is never begun.
+   */
+  private static final RequestContext inactive = new RequestContext();
+
+  /**
+   * Gets the context for the current thread.
+   *
+   * @return  The context of the active call, or an inactive context when no call is active
+   */
+  static RequestContext get() {
+    RequestContext context = current.get();
+    return context == null ? inactive : context;
+  }
+
+  /**
+   * Begins a new call on the current thread.
+   * Every call begun must be followed by a call to {@link #end()}.
+   *
+   * @param  timeout  The time budget of the call in milliseconds, or {@code 0} for no deadline
+   */
+  static RequestContext begin(long timeout) {
+    if (current.get() != null) {
+      throw new IllegalStateException("Call already active");
+    }
+    RequestContext context = new RequestContext();
+    context.active = true;
+    context.startNanos = System.nanoTime();
+    context.restrictTimeout(timeout);
+    current.set(context);
+    return context;
+  }
+
+  private boolean active;
+  private long startNanos;
+  private boolean hasDeadline;
+  private long deadlineNanos;
+  private Semaphore permits;
+  private AccountScheduler.Account account;
+  private long reservedBytes;
+  private boolean localeSet;
+  private Locale oldLocale;
+
+  private RequestContext() {
+    // Only created by begin, or for the inactive context
+  }
+
+  /**
+   * Is a call currently active on this thread?
+   */
+  boolean isActive() {
+    return active;
+  }
+
+  /**
+   * Ends the current call, removing the context from the thread.
+   */
+  void end() {
+    checkActive();
+    active = false;
+    try {
+      if (localeSet) {
+        ThreadLocale.set(oldLocale);
+        localeSet = false;
+        oldLocale = null;
+      }
+    } finally {
+      current.remove();
+    }
+  }
+
+  private void checkActive() {
+    if (!active) {
+      throw new IllegalStateException("Call not active");
+    }
+  }
+
+  /**
+   * Sets the locale of the current call, restoring the previous locale when the call ends.
+   * Only applied while a call is active, since there is nothing to restore the locale otherwise.
+   */
+  void setLocale(Locale locale) {
+    if (active) {
+      if (!localeSet) {
+        oldLocale = ThreadLocale.get();
+        localeSet = true;
+      }
+      ThreadLocale.set(locale);
+    }
+  }
+
+  /**
+   * Shortens the deadline of the current call, such as when the client requests a smaller time budget.
+   * A deadline is never extended.
+   *
+   * @param  timeout  The time budget in milliseconds from the start of the call, or {@code 0} for no change
+   */
+  void restrictTimeout(long timeout) {
+    if (active && timeout > 0) {
+      long newDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeout);
+      if (!hasDeadline || newDeadline - deadlineNanos < 0) {
+        deadlineNanos = newDeadline;
+        hasDeadline = true;
+      }
+    }
+  }
+
+  /**
+   * Gets the time remaining before the deadline.
+   *
+   * @return  The number of nanoseconds remaining, which is negative once past the deadline,
+   *          or {@link Long#MAX_VALUE} when there is no deadline
+   */
+  long getRemaining() {
+    return (active && hasDeadline) ? (deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+  }
+
+  /**
+   * Checks that the current call has not passed its deadline.
+   *
+   * @throws  DeadlineExceededException  when the deadline has passed
+   */
+  void checkDeadline() throws DeadlineExceededException {
+    if (getRemaining() <= 0) {
+      throw new DeadlineExceededException(
+          "Deadline exceeded after " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms"
+      );
+    }
+  }
+
+  Semaphore getPermits() {
+    return permits;
+  }
+
+  void setPermits(Semaphore permits) {
+    checkActive();
+    this.permits = permits;
+  }
+
+  AccountScheduler.Account getAccount() {
+    return account;
+  }
+
+  void setAccount(AccountScheduler.Account account) {
+    checkActive();
+    this.account = account;
+  }
+
+  long getReservedBytes() {
+    return reservedBytes;
+  }
+
+  void addReservedBytes(long bytes) {
+    checkActive();
+    reservedBytes += bytes;
+  }
+}
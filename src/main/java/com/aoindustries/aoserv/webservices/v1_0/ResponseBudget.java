@@ -0,0 +1,232 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the memory used by responses being built, so concurrent requests for the largest tables
+ * cannot push the service into full garbage collections or out of memory.
+ * <ol>
+ * <li>The size of a response is estimated before conversion, from the learned size of each row of its type.</li>
+ * <li>A response larger than the per-call limit fails with {@link ResponseTooLargeException}, telling the
+ *     caller to switch to the paged form of the operation.</li>
+ * <li>Otherwise the estimate is reserved from the global budget, waiting a bounded time when exhausted,
+ *     and released once the response has been sent.</li>
+ * </ol>
+ *
+ * <p>Configured by service parameters:</p>
+ * <ul>
+ * <li>{@code maxResponseMemory}: The global budget, in bytes, of all responses being built,
+ *     defaults to one quarter of the maximum heap</li>
+ * <li>{@code maxCallResponseMemory}: The maximum size, in bytes, of a single response,
+ *     defaults to one quarter of {@code maxResponseMemory}</li>
+ * <li>{@code maxResponseMemoryWait}: The maximum time, in milliseconds, to wait for budget</li>
+ * </ul>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ResponseBudget {
+
+  /** Make no instances. */
+  private ResponseBudget() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The default global budget is one quarter of the maximum heap.
+   */
+  static final long DEFAULT_MAX_RESPONSE_MEMORY = Runtime.getRuntime().maxMemory() / 4;
+
+  /**
+   * The default per-call limit is one quarter of the global budget.
+   */
+  static final long DEFAULT_MAX_CALL_RESPONSE_MEMORY = DEFAULT_MAX_RESPONSE_MEMORY / 4;
+
+  static final long DEFAULT_MAX_RESPONSE_MEMORY_WAIT = 1000;
+
+  private static final String EXHAUSTED = "Response memory exhausted, please retry";
+
+  /**
+   * The estimated overhead of each row, for the data transfer object and its XML element.
+   */
+  private static final long ROW_OVERHEAD = 256;
+
+  /**
+   * The estimated overhead of each property, for its field and XML element.
+   */
+  private static final long PROPERTY_OVERHEAD = 160;
+
+  /**
+   * The estimated bytes per character of string properties: the string itself, plus its copy in the XML tree.
+   */
+  private static final long BYTES_PER_CHAR = 4;
+
+  /**
+   * The number of characters assumed in each string property before any rows have been measured.
+   */
+  private static final long INITIAL_CHARS_PER_STRING = 16;
+
+  private static class Lock {
+    // Empty lock class to help heap profile
+  }
+
+  private static final Lock lock = new Lock();
+
+  private static long maxCallResponseMemory = DEFAULT_MAX_CALL_RESPONSE_MEMORY;
+
+  private static long maxResponseMemoryWait = DEFAULT_MAX_RESPONSE_MEMORY_WAIT;
+
+  private static long available = DEFAULT_MAX_RESPONSE_MEMORY;
+
+  /**
+   * The fixed overhead and learned size of each row of a data transfer object type.
+   */
+  private static final class RowSize {
+
+    /**
+     * The overhead of the row and its properties, computed once per type.
+     */
+    private final long overhead;
+
+    private final AtomicLong size;
+
+    private RowSize(long overhead, long initialSize) {
+      this.overhead = overhead;
+      this.size = new AtomicLong(initialSize);
+    }
+  }
+
+  /**
+   * The size of each row, by data transfer object type.
+   */
+  private static final ConcurrentMap<Class<?>, RowSize> rowSizes = new ConcurrentHashMap<>();
+
+  /**
+   * Configures the budget.  Must be called before the service accepts calls.
+   */
+  static void configure(long maxResponseMemory, long maxCallResponseMemory, long maxResponseMemoryWait) {
+    synchronized (lock) {
+      // A single response may never be larger than the whole budget
+      ResponseBudget.maxCallResponseMemory = Math.min(maxCallResponseMemory, maxResponseMemory);
+      ResponseBudget.maxResponseMemoryWait = maxResponseMemoryWait;
+      available = maxResponseMemory;
+    }
+  }
+
+  private static RowSize getRowSize(Class<?> type, int stringPropertyCount) throws IntrospectionException {
+    RowSize rowSize = rowSizes.get(type);
+    if (rowSize == null) {
+      long overhead = ROW_OVERHEAD
+          + PROPERTY_OVERHEAD * Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors().length;
+      rowSize = new RowSize(overhead, overhead + BYTES_PER_CHAR * INITIAL_CHARS_PER_STRING * stringPropertyCount);
+      RowSize existing = rowSizes.putIfAbsent(type, rowSize);
+      if (existing != null) {
+        rowSize = existing;
+      }
+    }
+    return rowSize;
+  }
+
+  /**
+   * Estimates the size of a response.
+   *
+   * @param  stringPropertyCount  The number of string properties of the type
+   */
+  static long estimate(Class<?> type, int stringPropertyCount, int rows) throws IntrospectionException {
+    return getRowSize(type, stringPropertyCount).size.get() * rows;
+  }
+
+  /**
+   * Learns the size of each row from a response that has been converted.
+   *
+   * @param  chars  The total number of characters in the string properties of all rows
+   */
+  static void update(Class<?> type, int stringPropertyCount, int rows, long chars) throws IntrospectionException {
+    if (rows > 0) {
+      RowSize rowSize = getRowSize(type, stringPropertyCount);
+      long measured = rowSize.overhead + BYTES_PER_CHAR * chars / rows;
+      // Exponentially weighted moving average, to follow changes in the data without jumping on outliers
+      rowSize.size.accumulateAndGet(measured, (previous, current) -> (previous * 3 + current) / 4);
+    }
+  }
+
+  /**
+   * Reserves memory for the response of the current call, released by {@link AdmissionController#release()}.
+   *
+   * @param  pageOperation  The name of the paged form of the operation, for the error message,
+   *                        or {@code null} when the operation has no paged form
+   *
+   * @throws  ResponseTooLargeException  when the response is larger than allowed for a single call
+   * @throws  ServiceUnavailableException  when the budget remains exhausted for too long
+   */
+  static void reserve(RequestContext context, Class<?> type, long bytes, int rows, String pageOperation)
+      throws ResponseTooLargeException, ServiceUnavailableException {
+    synchronized (lock) {
+      if (bytes > maxCallResponseMemory) {
+        String message = "Response too large: estimated " + bytes + " bytes for " + rows + " rows of " + type.getSimpleName();
+        if (pageOperation != null) {
+          long maxRows = rows == 0 ? 0 : (maxCallResponseMemory / (bytes / rows));
+          message += ", use " + pageOperation + " with a limit of no more than " + maxRows + " rows";
+        }
+        throw new ResponseTooLargeException(message);
+      }
+      if (available < bytes) {
+        long deadline = System.nanoTime() + Math.min(TimeUnit.MILLISECONDS.toNanos(maxResponseMemoryWait), context.getRemaining());
+        try {
+          while (available < bytes) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+              throw new ServiceUnavailableException(EXHAUSTED);
+            }
+            TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+          }
+        } catch (InterruptedException e) {
+          // Restore the interrupted status
+          Thread.currentThread().interrupt();
+          throw new ServiceUnavailableException(EXHAUSTED);
+        }
+      }
+      available -= bytes;
+      context.addReservedBytes(bytes);
+    }
+  }
+
+  /**
+   * Releases memory previously reserved.
+   */
+  static void release(long bytes) {
+    if (bytes > 0) {
+      synchronized (lock) {
+        available += bytes;
+        lock.notifyAll();
+      }
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.rmi.RemoteException;
+
+/**
+ * Thrown when a single response would use more memory than allowed for one call.
+ * The call should not be retried as-is, but switched to the paged form of the operation.
+ * Reported to clients with the {@code ResponseTooLarge} fault code of {@link Faults}.
+ *
+ * @author  AO Industries, Inc.
+ *
+ * @see  ResponseBudget
+ */
+public class ResponseTooLargeException extends RemoteException {
+
+  private static final long serialVersionUID = 1L;
+
+  public ResponseTooLargeException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import java.rmi.RemoteException;
+
+/**
+ * Thrown when a call is rejected without being processed, such as when the service is overloaded or shutting down.
+ * The call may be retried after a short delay.
+ * Reported to clients with the {@code ServiceUnavailable} fault code of {@link Faults}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ServiceUnavailableException extends RemoteException {
+
+  private static final long serialVersionUID = 1L;
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * aoserv-webservices - SOAP web services for the AOServ Platform.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of aoserv-webservices.
+ *
+ * aoserv-webservices is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * aoserv-webservices is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with aoserv-webservices.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoindustries.aoserv.webservices.v1_0;
+
+import com.aoapps.hodgepodge.table.Table;
+import com.aoapps.hodgepodge.table.TableListener;
+import com.aoindustries.aoserv.client.AoservConnector;
+import com.aoindustries.aoserv.client.AoservTable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parks calls until a table changes, using the table listeners of the connectors.
+ * Each table of each connector is given a version, taken from a single sequence on every change.  The versions
+ * of the tables of a new connector, such as one replacing a connector evicted from the cache, therefore never match
+ * any version of the connector it replaces, so clients see the change of connector as a change of the tables.
+ *
+ * <p>This is a blocking long-poll: each parked call holds its container thread, along with its capacity from the
+ * {@link AdmissionController} and {@link AccountScheduler}, while it waits.  Parked calls are further limited by
+ * the {@code maxParkedCalls} service parameter, which must be less than {@code maxConcurrentCalls} so parked calls
+ * never take all the capacity of the service.</p>
+ *
+ * <p>Each parked call waits on its own {@link Condition}, registered with the tables it watches, so a change only
+ * wakes the calls watching the changed table.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class TableWatcher {
+
+  /** Make no instances. */
+  private TableWatcher() {
+    throw new AssertionError();
+  }
+
+  static final int DEFAULT_MAX_PARKED_CALLS = 16;
+
+  private static final String TOO_MANY_PARKED = "Too many calls waiting for table changes, please retry";
+
+  /**
+   * The last version given to any table.  Starting from the current time makes it unlikely that a version
+   * known by a client from before a restart will match a new version.
+   */
+  private static final AtomicLong lastVersion = new AtomicLong(System.currentTimeMillis());
+
+  private static long nextVersion() {
+    return lastVersion.incrementAndGet();
+  }
+
+  /**
+   * A single parked call, signaled when any of its tables change.
+   */
+  private static final class Waiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private boolean signaled;
+
+    private void signal() {
+      lock.lock();
+      try {
+        signaled = true;
+        changed.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Listens for changes to a single table.
+   */
+  private static final class Watch implements TableListener {
+
+    private final AoservConnector conn;
+    private final AoservTable<?, ?> table;
+
+    /**
+     * Guards {@link #waiters} and the updates to {@link #version}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<Waiter> waiters = new HashSet<>();
+    private volatile long version = nextVersion();
+
+    private Watch(AoservConnector conn, AoservTable<?, ?> table) {
+      this.conn = conn;
+      this.table = table;
+    }
+
+    private void addWaiter(Waiter waiter) {
+      lock.lock();
+      try {
+        waiters.add(waiter);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void removeWaiter(Waiter waiter) {
+      lock.lock();
+      try {
+        waiters.remove(waiter);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void signalAll() {
+      assert lock.isHeldByCurrentThread();
+      for (Waiter waiter : waiters) {
+        waiter.signal();
+      }
+    }
+
+    /**
+     * Gives the table a new version and wakes the calls watching it.
+     */
+    private void changed() {
+      lock.lock();
+      try {
+        version = nextVersion();
+        signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void tableUpdated(Table<?> updated) {
+      changed();
+    }
+  }
+
+  private static class Lock {
+    // Empty lock class to help heap profile
+  }
+
+  /**
+   * Guards {@link #watches}.  Never held while waiting.
+   */
+  private static final Lock lock = new Lock();
+
+  private static final Map<AoservTable<?, ?>, Watch> watches = new IdentityHashMap<>();
+
+  private static volatile boolean shuttingDown;
+
+  private static volatile Semaphore parkedPermits = new Semaphore(DEFAULT_MAX_PARKED_CALLS);
+
+  /**
+   * Starts accepting calls.  Must be called before the service accepts calls.
+   *
+   * @param  maxParkedCalls  The maximum number of calls waiting for table changes,
+   *                         which must be less than {@code maxConcurrentCalls}
+   */
+  static void start(int maxParkedCalls) {
+    parkedPermits = new Semaphore(maxParkedCalls);
+    shuttingDown = false;
+  }
+
+  private static Watch[] getWatches() {
+    synchronized (lock) {
+      return watches.values().toArray(Watch[]::new);
+    }
+  }
+
+  /**
+   * Wakes all parked calls, which return immediately, and stops further calls from parking.
+   */
+  static void shutdown() {
+    shuttingDown = true;
+    for (Watch watch : getWatches()) {
+      watch.lock.lock();
+      try {
+        watch.signalAll();
+      } finally {
+        watch.lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Removes all table listeners.
+   */
+  static void close() {
+    Watch[] removed;
+    synchronized (lock) {
+      removed = watches.values().toArray(Watch[]::new);
+      watches.clear();
+    }
+    // Listeners removed outside lock, since the tables may be notifying concurrently
+    for (Watch watch : removed) {
+      watch.table.removeTableListener(watch);
+    }
+  }
+
+  /**
+   * Removes the table listeners of a connector that is no longer cached, so the connector may be garbage collected.
+   * Calls watching its tables are woken with new versions.
+   */
+  static void removeConnector(AoservConnector conn) {
+    List<Watch> removed = new ArrayList<>();
+    synchronized (lock) {
+      Iterator<Watch> iter = watches.values().iterator();
+      while (iter.hasNext()) {
+        Watch watch = iter.next();
+        if (watch.conn == conn) {
+          iter.remove();
+          removed.add(watch);
+        }
+      }
+    }
+    // Listeners removed outside lock, since the tables may be notifying concurrently
+    for (Watch watch : removed) {
+      watch.table.removeTableListener(watch);
+      watch.changed();
+    }
+  }
+
+  private static Watch getWatch(AoservConnector conn, AoservTable<?, ?> table) {
+    synchronized (lock) {
+      Watch watch = watches.get(table);
+      if (watch != null) {
+        return watch;
+      }
+    }
+    // Listener added outside lock, since the table may be notifying concurrently
+    Watch newWatch = new Watch(conn, table);
+    table.addTableListener(newWatch);
+    Watch existing;
+    synchronized (lock) {
+      existing = watches.putIfAbsent(table, newWatch);
+    }
+    if (existing != null) {
+      table.removeTableListener(newWatch);
+      return existing;
+    }
+    return newWatch;
+  }
+
+  /**
+   * Waits for any of the tables to have a version different than known.
+   *
+   * @param  conn           The connector the tables are from
+   * @param  knownVersions  The versions known, in the same order as {@code tables}, or {@code null} to get the
+   *                        current versions without waiting
+   * @param  timeout        The maximum time to wait, in nanoseconds
+   *
+   * @return  The current version of each table
+   *
+   * @throws  IllegalArgumentException  when {@code knownVersions} is not the same length as {@code tables}
+   * @throws  ServiceUnavailableException  when too many calls are already parked
+   */
+  static long[] await(AoservConnector conn, AoservTable<?, ?>[] tables, long[] knownVersions, long timeout) throws ServiceUnavailableException {
+    if (knownVersions != null && knownVersions.length != tables.length) {
+      throw new IllegalArgumentException(
+          "knownVersions.length != tables.length: " + knownVersions.length + " != " + tables.length
+      );
+    }
+    Watch[] tableWatches = new Watch[tables.length];
+    for (int i = 0; i < tables.length; i++) {
+      tableWatches[i] = getWatch(conn, tables[i]);
+    }
+    // Checked after the watches are added, since the connector may have been evicted concurrently
+    if (!AoservService.isCachedConnector(conn)) {
+      removeConnector(conn);
+    }
+    if (knownVersions != null && !shuttingDown && !isChanged(tableWatches, knownVersions)) {
+      park(tableWatches, knownVersions, timeout);
+    }
+    long[] versions = new long[tableWatches.length];
+    for (int i = 0; i < tableWatches.length; i++) {
+      versions[i] = tableWatches[i].version;
+    }
+    return versions;
+  }
+
+  private static void park(Watch[] tableWatches, long[] knownVersions, long timeout) throws ServiceUnavailableException {
+    Semaphore permits = parkedPermits;
+    if (!permits.tryAcquire()) {
+      throw new ServiceUnavailableException(TOO_MANY_PARKED);
+    }
+    try {
+      Waiter waiter = new Waiter();
+      // Registered before checking the versions, so no change is missed
+      for (Watch watch : tableWatches) {
+        watch.addWaiter(waiter);
+      }
+      try {
+        waiter.lock.lock();
+        try {
+          long remaining = timeout;
+          while (remaining > 0 && !shuttingDown && !isChanged(tableWatches, knownVersions)) {
+            if (waiter.signaled) {
+              // Changed or shutting down: check again
+              waiter.signaled = false;
+            } else {
+              remaining = waiter.changed.awaitNanos(remaining);
+            }
+          }
+        } finally {
+          waiter.lock.unlock();
+        }
+      } finally {
+        for (Watch watch : tableWatches) {
+          watch.removeWaiter(waiter);
+        }
+      }
+    } catch (InterruptedException e) {
+      // Restore the interrupted status
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException("Interrupted while waiting for table changes");
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static boolean isChanged(Watch[] tableWatches, long[] knownVersions) {
+    for (int i = 0; i < tableWatches.length; i++) {
+      if (tableWatches[i].version != knownVersions[i]) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
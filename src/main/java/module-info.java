@@ -1,6 +1,6 @@
 /*
  * aoserv-webservices - SOAP web services for the AOServ Platform.
- * Copyright (C) 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -28,9 +28,12 @@ module com.aoindustries.aoserv.webservices {
   requires com.aoapps.net.types; // <groupId>com.aoapps</groupId><artifactId>ao-net-types</artifactId>
   requires com.aoapps.security; // <groupId>com.aoapps</groupId><artifactId>ao-security</artifactId>
   requires com.aoindustries.aoserv.client; // <groupId>com.aoindustries</groupId><artifactId>aoserv-client</artifactId>
+  requires axis2.kernel; // <groupId>org.apache.axis2</groupId><artifactId>axis2-kernel</artifactId>
   // Java SE
   requires java.desktop;
   requires java.logging;
+  requires java.management;
   requires java.rmi;
   requires java.sql;
+  requires java.xml;
 }